@@ -2,6 +2,7 @@ package com.vitdo82.sr.scoreboard;
 
 import com.vitdo82.sr.scoreboard.models.Match;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -28,4 +29,19 @@ public interface ScoreBoard {
      * Finishes a match by removing it from the scoreboard
      */
     void finishMatch(String homeTeam, String awayTeam) throws ScoreBoardException;
+
+    /**
+     * Retrieves the matches the given team is participating in
+     */
+    List<Match> getMatchesByTeam(String team) throws ScoreBoardException;
+
+    /**
+     * Retrieves the matches started within the given time window
+     */
+    List<Match> getMatchesStartedBetween(LocalDateTime from, LocalDateTime to) throws ScoreBoardException;
+
+    /**
+     * Retrieves the matches with the total score within the given range
+     */
+    List<Match> getMatchesWithTotalScoreBetween(int minTotalScore, int maxTotalScore) throws ScoreBoardException;
 }
@@ -8,4 +8,8 @@ public class ScoreBoardException extends Exception {
     public ScoreBoardException(String message) {
         super(message);
     }
+
+    public ScoreBoardException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
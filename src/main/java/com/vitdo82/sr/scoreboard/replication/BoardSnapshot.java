@@ -0,0 +1,17 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.models.Match;
+
+import java.util.List;
+
+/**
+ * A consistent copy of the score board taken at the given change log version
+ *
+ * @param version the version of the last mutation included in the snapshot
+ * @param matches the tracked matches
+ */
+public record BoardSnapshot(
+        long version,
+        List<Match> matches
+) {
+}
@@ -0,0 +1,114 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+import com.vitdo82.sr.scoreboard.models.Match;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ordered, versioned log of the mutations applied to a score board
+ * Only the latest mutations up to the capacity are retained, older ones are overwritten
+ */
+public class ChangeLog {
+
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private final Mutation[] mutations;
+    private long version;
+    private long oldestVersion;
+
+    public ChangeLog() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ChangeLog(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Change log capacity must be positive");
+        }
+        this.mutations = new Mutation[capacity];
+        this.oldestVersion = 1;
+    }
+
+    /**
+     * Records a new mutation with the next version
+     *
+     * @param type  the kind of the change
+     * @param match the state of the match after the change
+     * @return the recorded {@link Mutation}
+     */
+    public synchronized Mutation record(Mutation.Type type, Match match) {
+        final Mutation mutation = new Mutation(version + 1, type, match);
+        append(mutation);
+        return mutation;
+    }
+
+    /**
+     * Replays a batch of mutations received from another change log
+     * The whole batch is validated first, so either all mutations are appended or none
+     *
+     * @param mutations the mutations to replay ordered by version
+     * @throws ScoreBoardException if the mutations do not form a contiguous sequence following the latest version
+     */
+    public synchronized void replay(List<Mutation> mutations) throws ScoreBoardException {
+        long expectedVersion = version + 1;
+        for (Mutation mutation : mutations) {
+            if (mutation.version() != expectedVersion) {
+                throw new ScoreBoardException("Mutation version %d does not follow version %d".formatted(mutation.version(), expectedVersion - 1));
+            }
+            expectedVersion++;
+        }
+        mutations.forEach(this::append);
+    }
+
+    /**
+     * Drops all retained mutations and continues the log from the given version
+     *
+     * @param version the version of the last mutation already applied
+     */
+    public synchronized void reset(long version) {
+        Arrays.fill(mutations, null);
+        this.version = version;
+        this.oldestVersion = version + 1;
+    }
+
+    /**
+     * Retrieves up to the given number of mutations following the given version
+     *
+     * @param version      the version of the last mutation already seen
+     * @param maxBatchSize the maximal number of mutations to return
+     * @return an unmodifiable {@link List} of {@link Mutation} ordered by version
+     * @throws ChangeLogTruncatedException if the mutations following the version are no longer retained
+     */
+    public synchronized List<Mutation> readAfter(long version, int maxBatchSize) throws ChangeLogTruncatedException {
+        if (version + 1 < oldestVersion || version > this.version) {
+            throw new ChangeLogTruncatedException("Change log does not hold mutations after version %d".formatted(version));
+        }
+        final long lastVersion = Math.min(this.version, version + Math.max(maxBatchSize, 0));
+        final List<Mutation> result = new ArrayList<>((int) (lastVersion - version));
+        for (long v = version + 1; v <= lastVersion; v++) {
+            result.add(mutations[slot(v)]);
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Retrieves the version of the latest mutation
+     *
+     * @return the version, 0 if no mutations were recorded
+     */
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    private void append(Mutation mutation) {
+        mutations[slot(mutation.version())] = mutation;
+        version = mutation.version();
+        oldestVersion = Math.max(oldestVersion, version - mutations.length + 1);
+    }
+
+    private int slot(long version) {
+        return (int) (version % mutations.length);
+    }
+}
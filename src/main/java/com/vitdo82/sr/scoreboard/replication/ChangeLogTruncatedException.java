@@ -0,0 +1,14 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+
+/**
+ * Reported when the requested mutations are no longer retained by the change log
+ * A replica receiving it has to catch up from a fresh {@link BoardSnapshot}
+ */
+public class ChangeLogTruncatedException extends ScoreBoardException {
+
+    public ChangeLogTruncatedException(String message) {
+        super(message);
+    }
+}
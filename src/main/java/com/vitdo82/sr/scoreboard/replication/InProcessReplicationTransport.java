@@ -0,0 +1,32 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+
+import java.util.List;
+
+/**
+ * Transport reading directly from a {@link ReplicationSource} living in the same JVM
+ */
+public class InProcessReplicationTransport implements ReplicationTransport {
+
+    private final ReplicationSource source;
+
+    public InProcessReplicationTransport(ReplicationSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public BoardSnapshot fetchSnapshot() {
+        return source.snapshot();
+    }
+
+    @Override
+    public List<Mutation> fetchMutationsAfter(long version, int maxBatchSize) throws ScoreBoardException {
+        return source.getMutationsAfter(version, maxBatchSize);
+    }
+
+    @Override
+    public long fetchVersion() {
+        return source.getVersion();
+    }
+}
@@ -0,0 +1,23 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.models.Match;
+
+/**
+ * A single versioned change applied to the score board
+ *
+ * @param version the position of the change in the change log, starting from 1
+ * @param type    the kind of the change
+ * @param match   the state of the match after the change, or the finished match for {@link Type#FINISH}
+ */
+public record Mutation(
+        long version,
+        Type type,
+        Match match
+) {
+
+    public enum Type {
+        START,
+        UPDATE,
+        FINISH
+    }
+}
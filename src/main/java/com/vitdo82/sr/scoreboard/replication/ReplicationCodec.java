@@ -0,0 +1,90 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.models.Match;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary wire format shared by {@link SocketReplicationServer} and {@link SocketReplicationTransport}
+ */
+final class ReplicationCodec {
+
+    static final byte OP_SNAPSHOT = 1;
+    static final byte OP_MUTATIONS = 2;
+    static final byte OP_VERSION = 3;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+    static final byte STATUS_TRUNCATED = 2;
+
+    private static final Mutation.Type[] MUTATION_TYPES = Mutation.Type.values();
+
+    private ReplicationCodec() {
+    }
+
+    static void writeSnapshot(DataOutput out, BoardSnapshot snapshot) throws IOException {
+        out.writeLong(snapshot.version());
+        out.writeInt(snapshot.matches().size());
+        for (Match match : snapshot.matches()) {
+            writeMatch(out, match);
+        }
+    }
+
+    static BoardSnapshot readSnapshot(DataInput in) throws IOException {
+        final long version = in.readLong();
+        final int size = in.readInt();
+        final List<Match> matches = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            matches.add(readMatch(in));
+        }
+        return new BoardSnapshot(version, List.copyOf(matches));
+    }
+
+    static void writeMutations(DataOutput out, List<Mutation> mutations) throws IOException {
+        out.writeInt(mutations.size());
+        for (Mutation mutation : mutations) {
+            out.writeLong(mutation.version());
+            out.writeByte(mutation.type().ordinal());
+            writeMatch(out, mutation.match());
+        }
+    }
+
+    static List<Mutation> readMutations(DataInput in) throws IOException {
+        final int size = in.readInt();
+        final List<Mutation> mutations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final long version = in.readLong();
+            final int typeOrdinal = in.readUnsignedByte();
+            if (typeOrdinal >= MUTATION_TYPES.length) {
+                throw new IOException("Unknown mutation type %d".formatted(typeOrdinal));
+            }
+            final Mutation.Type type = MUTATION_TYPES[typeOrdinal];
+            mutations.add(new Mutation(version, type, readMatch(in)));
+        }
+        return List.copyOf(mutations);
+    }
+
+    private static void writeMatch(DataOutput out, Match match) throws IOException {
+        out.writeUTF(match.homeTeam());
+        out.writeUTF(match.awayTeam());
+        out.writeInt(match.homeScore());
+        out.writeInt(match.awayScore());
+        out.writeLong(match.startTime().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(match.startTime().getNano());
+    }
+
+    private static Match readMatch(DataInput in) throws IOException {
+        final String homeTeam = in.readUTF();
+        final String awayTeam = in.readUTF();
+        final int homeScore = in.readInt();
+        final int awayScore = in.readInt();
+        final LocalDateTime startTime = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        return new Match(homeTeam, awayTeam, homeScore, awayScore, startTime);
+    }
+}
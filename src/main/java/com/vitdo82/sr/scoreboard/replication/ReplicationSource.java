@@ -0,0 +1,26 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+
+import java.util.List;
+
+/**
+ * Interface representing the authoritative side of the replication, serving snapshots and the change log tail
+ */
+public interface ReplicationSource {
+
+    /**
+     * Takes a consistent snapshot of the score board
+     */
+    BoardSnapshot snapshot();
+
+    /**
+     * Retrieves up to the given number of mutations following the given version
+     */
+    List<Mutation> getMutationsAfter(long version, int maxBatchSize) throws ScoreBoardException;
+
+    /**
+     * Retrieves the version of the latest mutation
+     */
+    long getVersion();
+}
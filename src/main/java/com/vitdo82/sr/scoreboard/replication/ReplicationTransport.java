@@ -0,0 +1,33 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+
+import java.util.List;
+
+/**
+ * Interface representing the channel a replica uses to pull the state of a {@link ReplicationSource}
+ */
+public interface ReplicationTransport extends AutoCloseable {
+
+    /**
+     * Fetches a consistent snapshot of the source score board
+     */
+    BoardSnapshot fetchSnapshot() throws ScoreBoardException;
+
+    /**
+     * Fetches up to the given number of mutations following the given version
+     */
+    List<Mutation> fetchMutationsAfter(long version, int maxBatchSize) throws ScoreBoardException;
+
+    /**
+     * Fetches the version of the latest mutation of the source score board
+     */
+    long fetchVersion() throws ScoreBoardException;
+
+    /**
+     * Releases the resources held by the transport
+     */
+    @Override
+    default void close() throws ScoreBoardException {
+    }
+}
@@ -0,0 +1,150 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves a {@link ReplicationSource} to {@link SocketReplicationTransport} clients over a loopback socket
+ * Every connected replica is handled by its own daemon thread
+ */
+public class SocketReplicationServer implements AutoCloseable {
+
+    private final ReplicationSource source;
+    private final ServerSocket serverSocket;
+    private final Set<Socket> connections;
+
+    /**
+     * Starts the server on an ephemeral loopback port
+     *
+     * @param source the source to replicate
+     * @throws ScoreBoardException if the server socket cannot be opened
+     */
+    public SocketReplicationServer(ReplicationSource source) throws ScoreBoardException {
+        this(source, 0);
+    }
+
+    /**
+     * Starts the server on the given loopback port
+     *
+     * @param source the source to replicate
+     * @param port   the port to listen on, 0 for an ephemeral port
+     * @throws ScoreBoardException if the server socket cannot be opened
+     */
+    public SocketReplicationServer(ReplicationSource source, int port) throws ScoreBoardException {
+        this.source = source;
+        this.connections = ConcurrentHashMap.newKeySet();
+        try {
+            this.serverSocket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        } catch (IOException e) {
+            throw new ScoreBoardException("Replication server cannot listen on port %d".formatted(port), e);
+        }
+        startThread(this::acceptConnections, "replication-server-" + getPort());
+    }
+
+    /**
+     * Retrieves the port the server listens on
+     *
+     * @return the local port
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Stops accepting replicas and drops all open connections
+     *
+     * @throws ScoreBoardException if the server socket cannot be closed
+     */
+    @Override
+    public void close() throws ScoreBoardException {
+        try {
+            serverSocket.close();
+            for (Socket connection : connections) {
+                connection.close();
+            }
+        } catch (IOException e) {
+            throw new ScoreBoardException("Replication server cannot be closed", e);
+        }
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                final Socket connection = serverSocket.accept();
+                connections.add(connection);
+                startThread(() -> serve(connection), "replication-connection-" + connection.getPort());
+            } catch (IOException e) {
+                // the server socket has been closed
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()))) {
+            while (true) {
+                handle(in.readByte(), in, out);
+                out.flush();
+            }
+        } catch (EOFException e) {
+            // the replica has disconnected
+        } catch (IOException e) {
+            // the connection has been dropped
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void handle(byte operation, DataInputStream in, DataOutputStream out) throws IOException {
+        switch (operation) {
+            case ReplicationCodec.OP_SNAPSHOT -> {
+                final BoardSnapshot snapshot = source.snapshot();
+                out.writeByte(ReplicationCodec.STATUS_OK);
+                ReplicationCodec.writeSnapshot(out, snapshot);
+            }
+            case ReplicationCodec.OP_MUTATIONS -> {
+                final long version = in.readLong();
+                final int maxBatchSize = in.readInt();
+                try {
+                    final List<Mutation> mutations = source.getMutationsAfter(version, maxBatchSize);
+                    out.writeByte(ReplicationCodec.STATUS_OK);
+                    ReplicationCodec.writeMutations(out, mutations);
+                } catch (ChangeLogTruncatedException e) {
+                    out.writeByte(ReplicationCodec.STATUS_TRUNCATED);
+                    out.writeUTF(e.getMessage());
+                } catch (ScoreBoardException e) {
+                    out.writeByte(ReplicationCodec.STATUS_ERROR);
+                    out.writeUTF(e.getMessage());
+                }
+            }
+            case ReplicationCodec.OP_VERSION -> {
+                out.writeByte(ReplicationCodec.STATUS_OK);
+                out.writeLong(source.getVersion());
+            }
+            default -> {
+                out.writeByte(ReplicationCodec.STATUS_ERROR);
+                out.writeUTF("Unknown replication operation %d".formatted(operation));
+            }
+        }
+    }
+
+    private static void startThread(Runnable task, String name) {
+        final Thread thread = new Thread(task, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
@@ -0,0 +1,129 @@
+package com.vitdo82.sr.scoreboard.replication;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.List;
+
+/**
+ * Transport pulling the state of a {@link SocketReplicationServer} over a single socket connection
+ * Requests are sent one at a time, concurrent callers are serialized
+ * Any I/O failure closes the connection, since the rest of the response can no longer be told apart from the next one
+ */
+public class SocketReplicationTransport implements ReplicationTransport {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private boolean broken;
+
+    /**
+     * Connects to a replication server listening on the loopback address
+     *
+     * @param port the port of the server
+     * @throws ScoreBoardException if the connection cannot be established
+     */
+    public SocketReplicationTransport(int port) throws ScoreBoardException {
+        this(InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Connects to a replication server
+     *
+     * @param address the address of the server
+     * @param port    the port of the server
+     * @throws ScoreBoardException if the connection cannot be established
+     */
+    public SocketReplicationTransport(InetAddress address, int port) throws ScoreBoardException {
+        try {
+            this.socket = new Socket(address, port);
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        } catch (IOException e) {
+            throw new ScoreBoardException("Replication server %s:%d is not reachable".formatted(address.getHostAddress(), port), e);
+        }
+    }
+
+    @Override
+    public synchronized BoardSnapshot fetchSnapshot() throws ScoreBoardException {
+        ensureOpen();
+        try {
+            out.writeByte(ReplicationCodec.OP_SNAPSHOT);
+            out.flush();
+            readStatus();
+            return ReplicationCodec.readSnapshot(in);
+        } catch (IOException e) {
+            throw fail("Snapshot cannot be fetched from the replication server", e);
+        }
+    }
+
+    @Override
+    public synchronized List<Mutation> fetchMutationsAfter(long version, int maxBatchSize) throws ScoreBoardException {
+        ensureOpen();
+        try {
+            out.writeByte(ReplicationCodec.OP_MUTATIONS);
+            out.writeLong(version);
+            out.writeInt(maxBatchSize);
+            out.flush();
+            readStatus();
+            return ReplicationCodec.readMutations(in);
+        } catch (IOException e) {
+            throw fail("Mutations cannot be fetched from the replication server", e);
+        }
+    }
+
+    @Override
+    public synchronized long fetchVersion() throws ScoreBoardException {
+        ensureOpen();
+        try {
+            out.writeByte(ReplicationCodec.OP_VERSION);
+            out.flush();
+            readStatus();
+            return in.readLong();
+        } catch (IOException e) {
+            throw fail("Version cannot be fetched from the replication server", e);
+        }
+    }
+
+    @Override
+    public synchronized void close() throws ScoreBoardException {
+        broken = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            throw new ScoreBoardException("Replication connection cannot be closed", e);
+        }
+    }
+
+    private void ensureOpen() throws ScoreBoardException {
+        if (broken) {
+            throw new ScoreBoardException("Replication connection is closed");
+        }
+    }
+
+    private ScoreBoardException fail(String message, IOException cause) {
+        broken = true;
+        try {
+            socket.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+        return new ScoreBoardException(message, cause);
+    }
+
+    private void readStatus() throws IOException, ScoreBoardException {
+        final byte status = in.readByte();
+        switch (status) {
+            case ReplicationCodec.STATUS_OK -> {
+            }
+            case ReplicationCodec.STATUS_TRUNCATED -> throw new ChangeLogTruncatedException(in.readUTF());
+            default -> throw new ScoreBoardException(in.readUTF());
+        }
+    }
+}
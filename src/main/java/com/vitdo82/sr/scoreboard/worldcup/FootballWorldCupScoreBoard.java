@@ -3,19 +3,40 @@ package com.vitdo82.sr.scoreboard.worldcup;
 import com.vitdo82.sr.scoreboard.ScoreBoard;
 import com.vitdo82.sr.scoreboard.ScoreBoardException;
 import com.vitdo82.sr.scoreboard.models.Match;
+import com.vitdo82.sr.scoreboard.replication.BoardSnapshot;
+import com.vitdo82.sr.scoreboard.replication.ChangeLog;
+import com.vitdo82.sr.scoreboard.replication.Mutation;
+import com.vitdo82.sr.scoreboard.replication.ReplicationSource;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentSkipListSet;
 
-public class FootballWorldCupScoreBoard implements ScoreBoard {
+public class FootballWorldCupScoreBoard implements ScoreBoard, ReplicationSource {
 
     private final Collection<Match> matches;
+    private final MatchIndex index;
+    private final ChangeLog changeLog;
     private final Validator validator;
 
     public FootballWorldCupScoreBoard() {
+        this(new ChangeLog());
+    }
+
+    /**
+     * Creates a score board retaining up to the given number of the latest mutations for replication
+     *
+     * @param changeLogCapacity the number of mutations retained by the change log
+     */
+    public FootballWorldCupScoreBoard(int changeLogCapacity) {
+        this(new ChangeLog(changeLogCapacity));
+    }
+
+    private FootballWorldCupScoreBoard(ChangeLog changeLog) {
         this.matches = new ConcurrentSkipListSet<>(new MatchComparator());
+        this.index = new MatchIndex();
+        this.changeLog = changeLog;
         this.validator = new Validator();
     }
 
@@ -34,19 +55,26 @@ public class FootballWorldCupScoreBoard implements ScoreBoard {
         validator.validateNonEmpty(awayTeam, "Away team");
 
         final Match match = new Match(homeTeam, awayTeam);
-        if (!matches.add(match)) {
-            throw new ScoreBoardException("One or both teams are already participating in another match");
+        synchronized (matches) {
+            if (index.isPlaying(homeTeam) || index.isPlaying(awayTeam) || !matches.add(match)) {
+                throw new ScoreBoardException("One or both teams are already participating in another match");
+            }
+            index.add(match);
+            changeLog.record(Mutation.Type.START, match);
         }
     }
 
     /**
      * Retrieves a summary of all tracked matches
+     * The summary is copied under the score board lock, so it never observes a partially applied change
      *
      * @return an unmodifiable {@link List} of {@link Match}
      */
     @Override
     public List<Match> getSummaryMatches() {
-        return List.copyOf(matches);
+        synchronized (matches) {
+            return List.copyOf(matches);
+        }
     }
 
     /**
@@ -64,10 +92,12 @@ public class FootballWorldCupScoreBoard implements ScoreBoard {
         validator.validateNonNegative(awayScore, "Away score");
 
         synchronized (matches) {
-            Match match = findMatch(homeTeam, awayTeam)
+            Match match = index.findByTeams(homeTeam, awayTeam)
                     .orElseThrow(() -> new ScoreBoardException("No match found for %s and %s".formatted(homeTeam, awayTeam)));
-            matches.remove(match);
-            matches.add(match.updateScore(homeScore, awayScore));
+            final Match updatedMatch = match.updateScore(homeScore, awayScore);
+            delete(match);
+            insert(updatedMatch);
+            changeLog.record(Mutation.Type.UPDATE, updatedMatch);
         }
     }
 
@@ -84,20 +114,153 @@ public class FootballWorldCupScoreBoard implements ScoreBoard {
         validator.validateNonEmpty(homeTeam, "Home team");
         validator.validateNonEmpty(awayTeam, "Away team");
 
-        Optional<Match> matchOptional = findMatch(homeTeam, awayTeam);
-        matchOptional.ifPresent(matches::remove);
+        synchronized (matches) {
+            index.findByTeams(homeTeam, awayTeam).ifPresent(match -> {
+                delete(match);
+                changeLog.record(Mutation.Type.FINISH, match);
+            });
+        }
     }
 
     /**
-     * Finds a match by the home and away team names
+     * Retrieves the matches the given team is participating in, either as home or away team
      *
-     * @param homeTeam the name of the home team
-     * @param awayTeam the name of the away team
-     * @return the {@link Match}
+     * @param team the name of the team
+     * @return an unmodifiable {@link List} of {@link Match}, empty if the team is not playing
+     * @throws ScoreBoardException if the team name is invalid
+     */
+    @Override
+    public List<Match> getMatchesByTeam(String team) throws ScoreBoardException {
+        validator.validateNonEmpty(team, "Team");
+
+        synchronized (matches) {
+            return index.findByTeam(team).map(List::of).orElseGet(List::of);
+        }
+    }
+
+    /**
+     * Retrieves the matches started within the given time window, both bounds inclusive
+     *
+     * @param from the earliest start time
+     * @param to   the latest start time
+     * @return an unmodifiable {@link List} of {@link Match} ordered by start time in descending order
+     * @throws ScoreBoardException if any of the bounds is null or the time window is invalid
+     */
+    @Override
+    public List<Match> getMatchesStartedBetween(LocalDateTime from, LocalDateTime to) throws ScoreBoardException {
+        validator.validateNonNull(from, "Start time from");
+        validator.validateNonNull(to, "Start time to");
+        validator.validateRange(from, to, "Start time");
+
+        synchronized (matches) {
+            return index.findStartedBetween(from, to);
+        }
+    }
+
+    /**
+     * Retrieves the matches with the total score (homeScore + awayScore) within the given range, both bounds inclusive
+     *
+     * @param minTotalScore the minimal total score
+     * @param maxTotalScore the maximal total score
+     * @return an unmodifiable {@link List} of {@link Match} ordered by total score in descending order
+     * @throws ScoreBoardException if any of the bounds is negative or the range is invalid
+     */
+    @Override
+    public List<Match> getMatchesWithTotalScoreBetween(int minTotalScore, int maxTotalScore) throws ScoreBoardException {
+        validator.validateNonNegative(minTotalScore, "Min total score");
+        validator.validateNonNegative(maxTotalScore, "Max total score");
+        validator.validateRange(minTotalScore, maxTotalScore, "Total score");
+
+        synchronized (matches) {
+            return index.findWithTotalScoreBetween(minTotalScore, maxTotalScore);
+        }
+    }
+
+    /**
+     * Takes a consistent snapshot of the score board together with the version of the last mutation it includes
+     *
+     * @return the {@link BoardSnapshot}
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        synchronized (matches) {
+            return new BoardSnapshot(changeLog.getVersion(), List.copyOf(matches));
+        }
+    }
+
+    /**
+     * Retrieves up to the given number of mutations following the given version
+     *
+     * @param version      the version of the last mutation already seen
+     * @param maxBatchSize the maximal number of mutations to return
+     * @return an unmodifiable {@link List} of {@link Mutation} ordered by version
+     * @throws ScoreBoardException if the mutations following the version are no longer retained
+     */
+    @Override
+    public List<Mutation> getMutationsAfter(long version, int maxBatchSize) throws ScoreBoardException {
+        return changeLog.readAfter(version, maxBatchSize);
+    }
+
+    /**
+     * Retrieves the version of the latest mutation applied to the score board
+     *
+     * @return the version, 0 if the score board has not been changed
+     */
+    @Override
+    public long getVersion() {
+        return changeLog.getVersion();
+    }
+
+    /**
+     * Replaces the state of the score board with the given snapshot
+     *
+     * @param snapshot the snapshot to restore
+     */
+    void restore(BoardSnapshot snapshot) {
+        synchronized (matches) {
+            List.copyOf(matches).forEach(this::delete);
+            snapshot.matches().forEach(this::insert);
+            changeLog.reset(snapshot.version());
+        }
+    }
+
+    /**
+     * Applies a batch of mutations received from another score board, readers observe the batch at once
+     * The batch is rejected as a whole if its versions do not directly follow the latest applied version
+     *
+     * @param mutations the mutations ordered by version
+     * @throws ScoreBoardException if the mutations do not directly follow the latest applied version
+     */
+    void apply(List<Mutation> mutations) throws ScoreBoardException {
+        synchronized (matches) {
+            changeLog.replay(mutations);
+            for (Mutation mutation : mutations) {
+                final Match match = mutation.match();
+                index.findByTeams(match.homeTeam(), match.awayTeam()).ifPresent(this::delete);
+                if (mutation.type() != Mutation.Type.FINISH) {
+                    insert(match);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a match to the summary and the indexes, the caller must hold the score board lock
+     *
+     * @param match the match to add
+     */
+    private void insert(Match match) {
+        matches.add(match);
+        index.add(match);
+    }
+
+    /**
+     * Removes a match from the summary and the indexes, the caller must hold the score board lock
+     *
+     * @param match the match to remove
      */
-    private Optional<Match> findMatch(String homeTeam, String awayTeam) {
-        return matches.stream()
-                .filter(m -> m.homeTeam().equals(homeTeam) && m.awayTeam().equals(awayTeam))
-                .findFirst();
+    private void delete(Match match) {
+        matches.remove(match);
+        index.remove(match);
     }
 }
@@ -0,0 +1,121 @@
+package com.vitdo82.sr.scoreboard.worldcup;
+
+import com.vitdo82.sr.scoreboard.models.Match;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Secondary indexes over the tracked matches: by team name, by start time and by total score
+ * The index is not thread-safe, callers are expected to guard it with the score board lock
+ */
+public class MatchIndex {
+
+    private final Map<String, Match> matchesByTeam = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<Match>> matchesByStartTime = new TreeMap<>();
+    private final NavigableMap<Integer, Set<Match>> matchesByTotalScore = new TreeMap<>();
+
+    /**
+     * Adds a match to all indexes
+     *
+     * @param match the match to add
+     */
+    public void add(Match match) {
+        matchesByTeam.put(match.homeTeam(), match);
+        matchesByTeam.put(match.awayTeam(), match);
+        matchesByStartTime.computeIfAbsent(match.startTime(), key -> new TreeSet<>(new MatchComparator())).add(match);
+        matchesByTotalScore.computeIfAbsent(totalScore(match), key -> new TreeSet<>(new MatchComparator())).add(match);
+    }
+
+    /**
+     * Removes a match from all indexes
+     *
+     * @param match the match to remove
+     */
+    public void remove(Match match) {
+        matchesByTeam.remove(match.homeTeam());
+        matchesByTeam.remove(match.awayTeam());
+        removeFromBucket(matchesByStartTime, match.startTime(), match);
+        removeFromBucket(matchesByTotalScore, totalScore(match), match);
+    }
+
+    /**
+     * Checks whether the team is participating in any tracked match
+     *
+     * @param team the name of the team
+     * @return true if the team is playing
+     */
+    public boolean isPlaying(String team) {
+        return matchesByTeam.containsKey(team);
+    }
+
+    /**
+     * Finds a match by the home and away team names
+     *
+     * @param homeTeam the name of the home team
+     * @param awayTeam the name of the away team
+     * @return the {@link Match}
+     */
+    public Optional<Match> findByTeams(String homeTeam, String awayTeam) {
+        return Optional.ofNullable(matchesByTeam.get(homeTeam))
+                .filter(m -> m.homeTeam().equals(homeTeam) && m.awayTeam().equals(awayTeam));
+    }
+
+    /**
+     * Finds the match the team is participating in, either as home or away team
+     *
+     * @param team the name of the team
+     * @return the {@link Match}
+     */
+    public Optional<Match> findByTeam(String team) {
+        return Optional.ofNullable(matchesByTeam.get(team));
+    }
+
+    /**
+     * Collects matches started within the given time window, both bounds inclusive
+     *
+     * @param from the earliest start time
+     * @param to   the latest start time
+     * @return a {@link List} of {@link Match} ordered by start time in descending order
+     */
+    public List<Match> findStartedBetween(LocalDateTime from, LocalDateTime to) {
+        return flatten(matchesByStartTime.subMap(from, true, to, true).descendingMap().values());
+    }
+
+    /**
+     * Collects matches with the total score (homeScore + awayScore) within the given range, both bounds inclusive
+     *
+     * @param minTotalScore the minimal total score
+     * @param maxTotalScore the maximal total score
+     * @return a {@link List} of {@link Match} ordered by total score in descending order
+     */
+    public List<Match> findWithTotalScoreBetween(int minTotalScore, int maxTotalScore) {
+        return flatten(matchesByTotalScore.subMap(minTotalScore, true, maxTotalScore, true).descendingMap().values());
+    }
+
+    private static <K> void removeFromBucket(Map<K, Set<Match>> index, K key, Match match) {
+        Set<Match> bucket = index.get(key);
+        if (bucket != null && bucket.remove(match) && bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static List<Match> flatten(Collection<Set<Match>> buckets) {
+        final List<Match> result = new ArrayList<>();
+        buckets.forEach(result::addAll);
+        return List.copyOf(result);
+    }
+
+    private static int totalScore(Match match) {
+        return match.homeScore() + match.awayScore();
+    }
+}
@@ -0,0 +1,163 @@
+package com.vitdo82.sr.scoreboard.worldcup;
+
+import com.vitdo82.sr.scoreboard.ScoreBoard;
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+import com.vitdo82.sr.scoreboard.models.Match;
+import com.vitdo82.sr.scoreboard.replication.ChangeLogTruncatedException;
+import com.vitdo82.sr.scoreboard.replication.Mutation;
+import com.vitdo82.sr.scoreboard.replication.ReplicationTransport;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only copy of a {@link FootballWorldCupScoreBoard} fed by the change log of the primary score board
+ * The replica catches up from a snapshot followed by the change log tail, applying the mutations in batches
+ */
+public class ReplicaScoreBoard implements ScoreBoard {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int MAX_RESTORES_PER_SYNC = 3;
+    // the replica only tracks the applied version, nothing reads mutations back from its change log
+    private static final int CHANGE_LOG_CAPACITY = 1;
+
+    private final ReplicationTransport transport;
+    private final FootballWorldCupScoreBoard board;
+    private final int batchSize;
+    private boolean initialized;
+
+    public ReplicaScoreBoard(ReplicationTransport transport) {
+        this(transport, DEFAULT_BATCH_SIZE);
+    }
+
+    public ReplicaScoreBoard(ReplicationTransport transport, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.transport = transport;
+        this.board = new FootballWorldCupScoreBoard(CHANGE_LOG_CAPACITY);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Pulls and applies the mutations of the primary score board until the replica has caught up
+     * On the first call, or when the primary no longer retains the required mutations, the replica is
+     * restored from a fresh snapshot first, at most {@value #MAX_RESTORES_PER_SYNC} times per call
+     *
+     * @return the number of mutations applied on top of the last restored snapshot, or on top of the
+     * previous state if no snapshot was restored
+     * @throws ScoreBoardException if the primary score board is not reachable or the replica cannot keep up
+     *                             with the primary change log
+     */
+    public synchronized int sync() throws ScoreBoardException {
+        int restores = 0;
+        if (!initialized) {
+            restore();
+            restores++;
+        }
+
+        int applied = 0;
+        while (true) {
+            final List<Mutation> batch;
+            try {
+                batch = transport.fetchMutationsAfter(board.getVersion(), batchSize);
+            } catch (ChangeLogTruncatedException e) {
+                if (restores >= MAX_RESTORES_PER_SYNC) {
+                    throw new ScoreBoardException("Replica cannot keep up with the primary change log after %d restores".formatted(restores), e);
+                }
+                restore();
+                restores++;
+                applied = 0;
+                continue;
+            }
+            if (batch.isEmpty()) {
+                return applied;
+            }
+            board.apply(batch);
+            applied += batch.size();
+        }
+    }
+
+    /**
+     * Retrieves the version of the last mutation applied to the replica
+     *
+     * @return the version, 0 if nothing has been replicated yet
+     */
+    public long getVersion() {
+        return board.getVersion();
+    }
+
+    /**
+     * Retrieves the number of mutations the replica is behind the primary score board
+     *
+     * @return the lag in mutations
+     * @throws ScoreBoardException if the primary score board is not reachable
+     */
+    public long getLag() throws ScoreBoardException {
+        return Math.max(transport.fetchVersion() - board.getVersion(), 0);
+    }
+
+    /**
+     * Replica score board is read-only, matches are started on the primary score board
+     *
+     * @throws ScoreBoardException always
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) throws ScoreBoardException {
+        throw readOnly();
+    }
+
+    /**
+     * Retrieves a summary of all replicated matches
+     *
+     * @return an unmodifiable {@link List} of {@link Match}
+     */
+    @Override
+    public List<Match> getSummaryMatches() {
+        return board.getSummaryMatches();
+    }
+
+    /**
+     * Replica score board is read-only, scores are updated on the primary score board
+     *
+     * @throws ScoreBoardException always
+     */
+    @Override
+    public void updateMatchScore(String homeTeam, String awayTeam, int homeScore, int awayScore) throws ScoreBoardException {
+        throw readOnly();
+    }
+
+    /**
+     * Replica score board is read-only, matches are finished on the primary score board
+     *
+     * @throws ScoreBoardException always
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) throws ScoreBoardException {
+        throw readOnly();
+    }
+
+    @Override
+    public List<Match> getMatchesByTeam(String team) throws ScoreBoardException {
+        return board.getMatchesByTeam(team);
+    }
+
+    @Override
+    public List<Match> getMatchesStartedBetween(LocalDateTime from, LocalDateTime to) throws ScoreBoardException {
+        return board.getMatchesStartedBetween(from, to);
+    }
+
+    @Override
+    public List<Match> getMatchesWithTotalScoreBetween(int minTotalScore, int maxTotalScore) throws ScoreBoardException {
+        return board.getMatchesWithTotalScoreBetween(minTotalScore, maxTotalScore);
+    }
+
+    private void restore() throws ScoreBoardException {
+        board.restore(transport.fetchSnapshot());
+        initialized = true;
+    }
+
+    private static ScoreBoardException readOnly() {
+        return new ScoreBoardException("Replica score board is read-only");
+    }
+}
@@ -32,4 +32,31 @@ public class Validator {
             throw new ScoreBoardException("%s must not be negative".formatted(fieldName));
         }
     }
+
+    /**
+     * Validates that the provided value is not null
+     *
+     * @param value     the value to validate
+     * @param fieldName the name of the field being validated
+     * @throws ScoreBoardException an exception will be thrown with a message indicating which field is invalid
+     */
+    public void validateNonNull(Object value, String fieldName) throws ScoreBoardException {
+        if (value == null) {
+            throw new ScoreBoardException("%s must not be null".formatted(fieldName));
+        }
+    }
+
+    /**
+     * Validates that the lower bound of the range does not exceed the upper bound
+     *
+     * @param from      the lower bound of the range
+     * @param to        the upper bound of the range
+     * @param fieldName the name of the range being validated
+     * @throws ScoreBoardException an exception will be thrown with a message indicating which range is invalid
+     */
+    public <T extends Comparable<? super T>> void validateRange(T from, T to, String fieldName) throws ScoreBoardException {
+        if (from.compareTo(to) > 0) {
+            throw new ScoreBoardException("%s lower bound must not be greater than upper bound".formatted(fieldName));
+        }
+    }
 }
@@ -13,6 +13,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -393,6 +394,165 @@ class FootballWorldCupScoreBoardTest {
         }
     }
 
+    @Nested
+    @DisplayName("Scenario: Querying matches by team")
+    class MatchesByTeam {
+
+        @Test
+        @DisplayName("Given multiple matches, when matches are queried by home or away team, then only the team's match should be returned")
+        void givenMultipleMatches_whenQueriedByTeam_thenTeamMatchReturned() throws ScoreBoardException {
+            // Given
+            worldCupScoreBoard.startMatch("Mexico", "Canada");
+            worldCupScoreBoard.startMatch("Spain", "Brazil");
+            worldCupScoreBoard.updateMatchScore("Spain", "Brazil", 1, 0);
+            // When
+            List<Match> homeTeamMatches = worldCupScoreBoard.getMatchesByTeam("Spain");
+            List<Match> awayTeamMatches = worldCupScoreBoard.getMatchesByTeam("Brazil");
+            // Then
+            assertThat(homeTeamMatches).hasSize(1).first().satisfies(match -> assertMatchDetails(match, "Spain", "Brazil", 1, 0));
+            assertThat(awayTeamMatches).isEqualTo(homeTeamMatches);
+        }
+
+        @Test
+        @DisplayName("Given a finished match, when matches are queried by team, then no matches should be returned")
+        void givenFinishedMatch_whenQueriedByTeam_thenNoMatchesReturned() throws ScoreBoardException {
+            // Given
+            worldCupScoreBoard.startMatch("Mexico", "Canada");
+            worldCupScoreBoard.finishMatch("Mexico", "Canada");
+            // When
+            List<Match> matches = worldCupScoreBoard.getMatchesByTeam("Mexico");
+            // Then
+            assertThat(matches).isEmpty();
+        }
+
+        @NullSource
+        @EmptySource
+        @ParameterizedTest(name = "{index} => team=''{0}''")
+        @DisplayName("Given an empty/null team name, when matches are queried by team, then an exception should be raised")
+        void givenEmptyTeamName_whenQueriedByTeam_thenRaiseException(String team) {
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> worldCupScoreBoard.getMatchesByTeam(team));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Team name must not be null or empty");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scenario: Querying matches by start time")
+    class MatchesStartedBetween {
+
+        @Test
+        @DisplayName("Given multiple matches, when matches are queried by start time window, then only matches started within the window should be returned")
+        void givenMultipleMatches_whenQueriedByStartTime_thenMatchesWithinWindowReturned() throws ScoreBoardException, InterruptedException {
+            // Given
+            worldCupScoreBoard.startMatch("Mexico", "Canada");
+            // sleep around the window start, so it lies strictly between the start times regardless of the clock resolution
+            Thread.sleep(5);
+            LocalDateTime from = LocalDateTime.now();
+            Thread.sleep(5);
+            worldCupScoreBoard.startMatch("Spain", "Brazil");
+            worldCupScoreBoard.startMatch("Germany", "France");
+            // When
+            List<Match> matches = worldCupScoreBoard.getMatchesStartedBetween(from, LocalDateTime.now());
+            // Then
+            assertThat(matches).extracting(Match::homeTeam).containsExactlyInAnyOrder("Spain", "Germany");
+            assertThat(matches).isSortedAccordingTo(Comparator.comparing(Match::startTime).reversed());
+        }
+
+        @Test
+        @DisplayName("Given a match, when the score is updated, then the match should keep its place in the start time window")
+        void givenMatch_whenScoreUpdated_thenMatchStaysInStartTimeWindow() throws ScoreBoardException {
+            // Given
+            LocalDateTime from = LocalDateTime.now();
+            worldCupScoreBoard.startMatch("Mexico", "Canada");
+            // When
+            worldCupScoreBoard.updateMatchScore("Mexico", "Canada", 2, 1);
+            // Then
+            assertThat(worldCupScoreBoard.getMatchesStartedBetween(from, LocalDateTime.now()))
+                    .hasSize(1).first().satisfies(match -> assertMatchDetails(match, "Mexico", "Canada", 2, 1));
+        }
+
+        @Test
+        @DisplayName("Given a time window with the lower bound after the upper bound, when matches are queried, then an exception should be raised")
+        void givenInvalidTimeWindow_whenQueriedByStartTime_thenRaiseException() {
+            // Given
+            LocalDateTime to = LocalDateTime.now();
+            LocalDateTime from = to.plusMinutes(15);
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> worldCupScoreBoard.getMatchesStartedBetween(from, to));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Start time lower bound must not be greater than upper bound");
+        }
+
+        @Test
+        @DisplayName("Given a null lower bound, when matches are queried by start time, then an exception should be raised")
+        void givenNullLowerBound_whenQueriedByStartTime_thenRaiseException() {
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> worldCupScoreBoard.getMatchesStartedBetween(null, LocalDateTime.now()));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Start time from must not be null");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scenario: Querying matches by total score")
+    class MatchesWithTotalScoreBetween {
+
+        @Test
+        @DisplayName("Given multiple matches, when matches are queried by total score range, then only matches within the range should be returned in summary order")
+        void givenMultipleMatches_whenQueriedByTotalScore_thenMatchesWithinRangeReturned() throws ScoreBoardException {
+            // Given
+            worldCupScoreBoard.startMatch("Mexico", "Canada");
+            worldCupScoreBoard.updateMatchScore("Mexico", "Canada", 0, 5);
+
+            worldCupScoreBoard.startMatch("Spain", "Brazil");
+            worldCupScoreBoard.updateMatchScore("Spain", "Brazil", 10, 2);
+
+            worldCupScoreBoard.startMatch("Germany", "France");
+            worldCupScoreBoard.updateMatchScore("Germany", "France", 2, 2);
+
+            worldCupScoreBoard.startMatch("Argentina", "Australia");
+            worldCupScoreBoard.updateMatchScore("Argentina", "Australia", 3, 2);
+            // When
+            List<Match> matches = worldCupScoreBoard.getMatchesWithTotalScoreBetween(5, Integer.MAX_VALUE);
+            // Then
+            assertThat(matches).hasSize(3);
+            assertMatchDetails(matches.get(0), "Spain", "Brazil", 10, 2);
+            assertMatchDetails(matches.get(1), "Argentina", "Australia", 3, 2);
+            assertMatchDetails(matches.get(2), "Mexico", "Canada", 0, 5);
+        }
+
+        @Test
+        @DisplayName("Given a match, when the score is updated out of the range, then the match should not be returned")
+        void givenMatch_whenScoreUpdatedOutOfRange_thenMatchNotReturned() throws ScoreBoardException {
+            // Given
+            worldCupScoreBoard.startMatch("Mexico", "Canada");
+            // When
+            worldCupScoreBoard.updateMatchScore("Mexico", "Canada", 3, 3);
+            // Then
+            assertThat(worldCupScoreBoard.getMatchesWithTotalScoreBetween(0, 0)).isEmpty();
+            assertThat(worldCupScoreBoard.getMatchesWithTotalScoreBetween(6, 6)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("Given a score range with the lower bound above the upper bound, when matches are queried, then an exception should be raised")
+        void givenInvalidScoreRange_whenQueriedByTotalScore_thenRaiseException() {
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> worldCupScoreBoard.getMatchesWithTotalScoreBetween(5, 1));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Total score lower bound must not be greater than upper bound");
+        }
+
+        @Test
+        @DisplayName("Given a negative lower bound, when matches are queried by total score, then an exception should be raised")
+        void givenNegativeLowerBound_whenQueriedByTotalScore_thenRaiseException() {
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> worldCupScoreBoard.getMatchesWithTotalScoreBetween(-1, 5));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Min total score must not be negative");
+        }
+    }
+
     /**
      * Asserts the match details
      *
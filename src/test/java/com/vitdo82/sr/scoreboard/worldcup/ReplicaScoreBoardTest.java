@@ -0,0 +1,276 @@
+package com.vitdo82.sr.scoreboard.worldcup;
+
+import com.vitdo82.sr.scoreboard.ScoreBoardException;
+import com.vitdo82.sr.scoreboard.models.Match;
+import com.vitdo82.sr.scoreboard.replication.BoardSnapshot;
+import com.vitdo82.sr.scoreboard.replication.ChangeLogTruncatedException;
+import com.vitdo82.sr.scoreboard.replication.InProcessReplicationTransport;
+import com.vitdo82.sr.scoreboard.replication.Mutation;
+import com.vitdo82.sr.scoreboard.replication.ReplicationTransport;
+import com.vitdo82.sr.scoreboard.replication.SocketReplicationServer;
+import com.vitdo82.sr.scoreboard.replication.SocketReplicationTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("Replica Score Board")
+class ReplicaScoreBoardTest {
+
+    private FootballWorldCupScoreBoard primaryScoreBoard;
+
+    @BeforeEach
+    void setupBefore() {
+        this.primaryScoreBoard = new FootballWorldCupScoreBoard(4);
+    }
+
+    @Nested
+    @DisplayName("Scenario: Replicating in process")
+    class InProcess {
+
+        private ReplicaScoreBoard replicaScoreBoard;
+
+        @BeforeEach
+        void setupBefore() {
+            this.replicaScoreBoard = new ReplicaScoreBoard(new InProcessReplicationTransport(primaryScoreBoard), 2);
+        }
+
+        @Test
+        @DisplayName("Given a primary with matches, when the replica is synced, then it should catch up from the snapshot")
+        void givenPrimaryMatches_whenReplicaSynced_thenReplicaCaughtUpFromSnapshot() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            primaryScoreBoard.updateMatchScore("Mexico", "Canada", 0, 5);
+            primaryScoreBoard.startMatch("Spain", "Brazil");
+            // When
+            int applied = replicaScoreBoard.sync();
+            // Then
+            assertThat(applied).isZero();
+            assertThat(replicaScoreBoard.getVersion()).isEqualTo(3);
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+
+        @Test
+        @DisplayName("Given a synced replica, when the primary changes, then the replica should apply the change log tail and report its lag")
+        void givenSyncedReplica_whenPrimaryChanged_thenReplicaAppliesChangeLogTail() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            replicaScoreBoard.sync();
+            // When
+            primaryScoreBoard.updateMatchScore("Mexico", "Canada", 1, 0);
+            primaryScoreBoard.startMatch("Spain", "Brazil");
+            primaryScoreBoard.updateMatchScore("Spain", "Brazil", 3, 3);
+            // Then
+            assertThat(replicaScoreBoard.getLag()).isEqualTo(3);
+            assertThat(replicaScoreBoard.sync()).isEqualTo(3);
+            assertThat(replicaScoreBoard.getLag()).isZero();
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+            assertThat(replicaScoreBoard.getMatchesWithTotalScoreBetween(6, 6)).isEqualTo(primaryScoreBoard.getMatchesWithTotalScoreBetween(6, 6));
+        }
+
+        @Test
+        @DisplayName("Given a synced replica, when a match is finished on the primary, then it should be removed from the replica")
+        void givenSyncedReplica_whenMatchFinished_thenMatchRemovedFromReplica() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            primaryScoreBoard.startMatch("Spain", "Brazil");
+            replicaScoreBoard.sync();
+            // When
+            primaryScoreBoard.finishMatch("Mexico", "Canada");
+            replicaScoreBoard.sync();
+            // Then
+            assertThat(replicaScoreBoard.getMatchesByTeam("Mexico")).isEmpty();
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+
+        @Test
+        @DisplayName("Given a lagging replica, when the primary change log is truncated, then the replica should catch up from a new snapshot")
+        void givenLaggingReplica_whenChangeLogTruncated_thenReplicaRestoredFromSnapshot() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            replicaScoreBoard.sync();
+            // When
+            for (int score = 1; score <= 10; score++) {
+                primaryScoreBoard.updateMatchScore("Mexico", "Canada", score, 0);
+            }
+            int applied = replicaScoreBoard.sync();
+            // Then
+            assertThat(applied).isZero();
+            assertThat(replicaScoreBoard.getVersion()).isEqualTo(primaryScoreBoard.getVersion());
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+
+        @Test
+        @DisplayName("Given a concurrent reader, when the replica applies batches, then the reader should never observe a partially applied batch")
+        void givenConcurrentReader_whenReplicaSynced_thenReaderObservesConsistentSummary() throws ScoreBoardException, InterruptedException {
+            // Given
+            final int numberOfMatches = 20;
+            for (int index = 0; index < numberOfMatches; index++) {
+                primaryScoreBoard.startMatch("Home" + index, "Away" + index);
+            }
+            replicaScoreBoard.sync();
+
+            final AtomicBoolean running = new AtomicBoolean(true);
+            final AtomicInteger inconsistentReads = new AtomicInteger();
+            final Thread reader = new Thread(() -> {
+                while (running.get()) {
+                    if (replicaScoreBoard.getSummaryMatches().size() != numberOfMatches) {
+                        inconsistentReads.incrementAndGet();
+                    }
+                }
+            });
+            reader.start();
+            // When
+            try {
+                for (int score = 1; score <= 2000; score++) {
+                    primaryScoreBoard.updateMatchScore("Home" + (score % numberOfMatches), "Away" + (score % numberOfMatches), score, 0);
+                    if (score % 3 == 0) {
+                        replicaScoreBoard.sync();
+                    }
+                }
+                replicaScoreBoard.sync();
+            } finally {
+                running.set(false);
+                reader.join();
+            }
+            // Then
+            assertThat(inconsistentReads).hasValue(0);
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+
+        @Test
+        @DisplayName("Given a primary change log always truncated, when the replica is synced, then an exception should be raised after limited restores")
+        void givenAlwaysTruncatedChangeLog_whenReplicaSynced_thenRaiseException() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            AtomicInteger snapshots = new AtomicInteger();
+            ReplicaScoreBoard laggingReplica = new ReplicaScoreBoard(new ReplicationTransport() {
+                @Override
+                public BoardSnapshot fetchSnapshot() {
+                    snapshots.incrementAndGet();
+                    return primaryScoreBoard.snapshot();
+                }
+
+                @Override
+                public List<Mutation> fetchMutationsAfter(long version, int maxBatchSize) throws ScoreBoardException {
+                    throw new ChangeLogTruncatedException("Change log does not hold mutations after version %d".formatted(version));
+                }
+
+                @Override
+                public long fetchVersion() {
+                    return primaryScoreBoard.getVersion();
+                }
+            });
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, laggingReplica::sync);
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Replica cannot keep up with the primary change log after 3 restores");
+            assertThat(snapshots).hasValue(3);
+        }
+
+        @Test
+        @DisplayName("Given a batch with a version gap, when the batch is applied, then no mutation of the batch should be applied")
+        void givenBatchWithVersionGap_whenApplied_thenNoMutationApplied() {
+            // Given
+            FootballWorldCupScoreBoard scoreBoard = new FootballWorldCupScoreBoard();
+            Match match = new Match("Mexico", "Canada");
+            List<Mutation> batch = List.of(
+                    new Mutation(1, Mutation.Type.START, match),
+                    new Mutation(3, Mutation.Type.UPDATE, match.updateScore(1, 0)));
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> scoreBoard.apply(batch));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Mutation version 3 does not follow version 1");
+            assertThat(scoreBoard.getVersion()).isZero();
+            assertThat(scoreBoard.getSummaryMatches()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Given a replica, when a match is started on it, then an exception should state the replica is read-only")
+        void givenReplica_whenMatchStarted_thenRaiseException() {
+            // When
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, () -> replicaScoreBoard.startMatch("Mexico", "Canada"));
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Replica score board is read-only");
+        }
+    }
+
+    @Nested
+    @DisplayName("Scenario: Replicating over a loopback socket")
+    class LoopbackSocket {
+
+        private SocketReplicationServer server;
+        private ReplicationTransport transport;
+        private ReplicaScoreBoard replicaScoreBoard;
+
+        @BeforeEach
+        void setupBefore() throws ScoreBoardException {
+            this.server = new SocketReplicationServer(primaryScoreBoard);
+            this.transport = new SocketReplicationTransport(server.getPort());
+            this.replicaScoreBoard = new ReplicaScoreBoard(transport, 2);
+        }
+
+        @AfterEach
+        void tearDownAfter() throws ScoreBoardException {
+            transport.close();
+            server.close();
+        }
+
+        @Test
+        @DisplayName("Given a primary with matches, when the replica is synced over the socket, then it should match the primary")
+        void givenPrimaryMatches_whenReplicaSynced_thenReplicaMatchesPrimary() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            primaryScoreBoard.updateMatchScore("Mexico", "Canada", 0, 5);
+            replicaScoreBoard.sync();
+            // When
+            primaryScoreBoard.startMatch("Spain", "Brazil");
+            primaryScoreBoard.updateMatchScore("Spain", "Brazil", 10, 2);
+            primaryScoreBoard.finishMatch("Mexico", "Canada");
+            int applied = replicaScoreBoard.sync();
+            // Then
+            assertThat(applied).isEqualTo(3);
+            assertThat(replicaScoreBoard.getLag()).isZero();
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+
+        @Test
+        @DisplayName("Given a dropped connection, when the replica is synced, then the transport should stay closed")
+        void givenDroppedConnection_whenReplicaSynced_thenTransportClosed() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            replicaScoreBoard.sync();
+            server.close();
+            // When
+            assertThrows(ScoreBoardException.class, replicaScoreBoard::sync);
+            ScoreBoardException exception = assertThrows(ScoreBoardException.class, replicaScoreBoard::sync);
+            // Then
+            assertThat(exception.getMessage()).isEqualTo("Replication connection is closed");
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+
+        @Test
+        @DisplayName("Given a lagging replica, when the change log is truncated, then the replica should catch up from a snapshot over the socket")
+        void givenLaggingReplica_whenChangeLogTruncated_thenReplicaRestoredFromSnapshot() throws ScoreBoardException {
+            // Given
+            primaryScoreBoard.startMatch("Mexico", "Canada");
+            replicaScoreBoard.sync();
+            // When
+            for (int score = 1; score <= 10; score++) {
+                primaryScoreBoard.updateMatchScore("Mexico", "Canada", 0, score);
+            }
+            replicaScoreBoard.sync();
+            // Then
+            assertThat(replicaScoreBoard.getVersion()).isEqualTo(primaryScoreBoard.getVersion());
+            assertThat(replicaScoreBoard.getSummaryMatches()).isEqualTo(primaryScoreBoard.getSummaryMatches());
+        }
+    }
+}